@@ -1,3 +1,5 @@
+import java.util.Arrays;
+
 /**
  * Implements Dijkstra's algorithm using a custom priority queue.
  */
@@ -7,8 +9,8 @@ public class Dijkstra {
      * A custom priority queue class for managing cities and their distances.
      */
     private static class CustomPriorityQueue {
-        private final int[] cities; // Holds the cities as integers.
-        private final int[] distances; // Holds the corresponding distances.
+        private int[] cities; // Holds the cities as integers.
+        private int[] distances; // Holds the corresponding distances.
         private int size; // Current size of the priority queue.
 
         /**
@@ -23,12 +25,18 @@ public class Dijkstra {
         }
 
         /**
-         * Adds a city and its distance to the queue.
+         * Adds a city and its distance to the queue. A city may be added more than once (each time its distance
+         * improves), so the underlying arrays are doubled when they fill up.
          *
          * @param city     The city to add.
          * @param distance The distance of the city.
          */
         public void add(int city, int distance) {
+            if (size == cities.length) { // Grow the arrays when the heap is full.
+                int newCapacity = Math.max(1, cities.length * 2);
+                cities = Arrays.copyOf(cities, newCapacity);
+                distances = Arrays.copyOf(distances, newCapacity);
+            }
             cities[size] = city;
             distances[size] = distance;
             size++;
@@ -48,6 +56,15 @@ public class Dijkstra {
             return city;
         }
 
+        /**
+         * Returns the smallest distance in the queue without removing its city.
+         *
+         * @return The distance of the city at the top of the heap.
+         */
+        public int peekDistance() {
+            return distances[0];
+        }
+
         /**
          * Checks if the queue is empty.
          *
@@ -196,6 +213,163 @@ public class Dijkstra {
     }
 
 
+    /**
+     * Holds the result of a multi-source search: the distance from each city to its nearest facility and
+     * the facility that owns (is nearest to) each city.
+     */
+    public static class NearestFacilityResult {
+        public final int[] distances; // Distance from each city to its nearest facility (Integer.MAX_VALUE if unreachable).
+        public final int[] owners; // The nearest facility of each city (-1 if unreachable).
+
+        /**
+         * Constructs a NearestFacilityResult.
+         *
+         * @param distances The distance from each city to its nearest facility.
+         * @param owners    The nearest facility of each city.
+         */
+        public NearestFacilityResult(int[] distances, int[] owners) {
+            this.distances = distances;
+            this.owners = owners;
+        }
+    }
+
+    /**
+     * Executes a multi-source Dijkstra that finds, for every city, the distance to its nearest facility.
+     * Every facility is seeded into the priority queue at distance 0, so a single search replaces running
+     * dijkstra once per facility. Each city records which facility its shortest path starts from.
+     *
+     * @param distanceMatrix The graph represented as a distance matrix, where Integer.MAX_VALUE represents
+     *                       an absence of direct path between two cities.
+     * @param facilities     The indices of the facility cities.
+     * @return The distance from each city to its nearest facility and the facility that owns each city.
+     */
+    public static NearestFacilityResult nearestFacility(int[][] distanceMatrix, int[] facilities) {
+        int n = distanceMatrix.length;
+        int[] dist = new int[n];
+        int[] owner = new int[n];
+        search(distanceMatrix, facilities, Integer.MAX_VALUE, null, 0, dist, owner, null);
+        return new NearestFacilityResult(dist, owner);
+    }
+
+    /**
+     * Executes Dijkstra's algorithm from a start city, stopping once the closest remaining city is farther
+     * than the given radius. Only the cities within the radius are settled, so the search does not explore
+     * the rest of the graph.
+     *
+     * @param distanceMatrix The graph represented as a distance matrix, where Integer.MAX_VALUE represents
+     *                       an absence of direct path between two cities.
+     * @param startCity      The index of the starting city from which distances are calculated.
+     * @param radius         The maximum distance from the start city to search.
+     * @return An array where each element at index i is the shortest distance from the start city to city i,
+     *         or Integer.MAX_VALUE if city i is farther than the radius.
+     */
+    public static int[] dijkstraWithinRadius(int[][] distanceMatrix, int startCity, int radius) {
+        int n = distanceMatrix.length;
+        int[] dist = new int[n];
+        search(distanceMatrix, new int[]{startCity}, radius, null, 0, dist, new int[n], null);
+        return dist;
+    }
+
+    /**
+     * Executes Dijkstra's algorithm from a start city, stopping as soon as the k nearest target cities
+     * have been settled.
+     *
+     * @param distanceMatrix The graph represented as a distance matrix, where Integer.MAX_VALUE represents
+     *                       an absence of direct path between two cities.
+     * @param startCity      The index of the starting city from which distances are calculated.
+     * @param targets        The indices of the candidate target cities.
+     * @param k              The number of nearest targets to find.
+     * @return The k nearest reachable targets, ordered from nearest to farthest (fewer than k if not enough
+     *         targets are reachable).
+     */
+    public static int[] kNearestTargets(int[][] distanceMatrix, int startCity, int[] targets, int k) {
+        int n = distanceMatrix.length;
+        boolean[] isTarget = new boolean[n];
+        for (int target : targets) {
+            isTarget[target] = true;
+        }
+
+        int[] settledTargets = new int[Math.max(0, Math.min(k, targets.length))];
+        int found = search(distanceMatrix, new int[]{startCity}, Integer.MAX_VALUE, isTarget, settledTargets.length,
+                new int[n], new int[n], settledTargets);
+        return Arrays.copyOf(settledTargets, found);
+    }
+
+    /**
+     * Shared search loop behind the multi-source, bounded-radius and k-nearest queries. All sources start at
+     * distance 0 and each settled city inherits the source its shortest path starts from. The search stops
+     * when the queue is empty, when the closest remaining city is farther than the radius, or when k targets
+     * have been settled. Cities that were not settled are left at Integer.MAX_VALUE with owner -1.
+     *
+     * @param distanceMatrix The graph represented as a distance matrix.
+     * @param sources        The cities the search starts from.
+     * @param radius         The maximum distance to settle.
+     * @param isTarget       Marks the target cities, or null if the search does not stop on targets.
+     * @param k              The number of targets to settle before stopping (ignored if isTarget is null).
+     * @param dist           Filled with the shortest distance to each settled city.
+     * @param owner          Filled with the source owning each settled city.
+     * @param settledTargets Filled with the targets in the order they were settled, or null.
+     * @return The number of targets settled.
+     */
+    private static int search(int[][] distanceMatrix, int[] sources, int radius, boolean[] isTarget, int k,
+                              int[] dist, int[] owner, int[] settledTargets) {
+        int n = distanceMatrix.length;
+        boolean[] visited = new boolean[n];
+        Arrays.fill(dist, Integer.MAX_VALUE);
+        Arrays.fill(owner, -1);
+        if (isTarget != null && k == 0) return 0; // No targets to find.
+
+        // Seed every source at distance 0; each source owns itself.
+        CustomPriorityQueue customPriorityQueue = new CustomPriorityQueue(n);
+        for (int source : sources) {
+            if (dist[source] == 0) continue; // Ignore duplicate sources.
+            dist[source] = 0;
+            owner[source] = source;
+            customPriorityQueue.add(source, 0);
+        }
+
+        int found = 0;
+
+        while (!customPriorityQueue.isEmpty()) {
+            // Stop once the closest remaining city lies outside the radius.
+            if (customPriorityQueue.peekDistance() > radius) break;
+
+            int currentCity = customPriorityQueue.poll();
+            if (visited[currentCity]) continue;
+            visited[currentCity] = true;
+
+            // Stop once the k nearest targets have been settled.
+            if (isTarget != null && isTarget[currentCity]) {
+                if (settledTargets != null) {
+                    settledTargets[found] = currentCity;
+                }
+                if (++found == k) break;
+            }
+
+            for (int neighbor = 0; neighbor < n; neighbor++) {
+                int edge = distanceMatrix[currentCity][neighbor];
+                // Skip the city itself, settled cities and missing edges.
+                if (currentCity == neighbor || visited[neighbor] || edge == Integer.MAX_VALUE) continue;
+
+                int newDist = dist[currentCity] + edge;
+                if (newDist < dist[neighbor]) {
+                    dist[neighbor] = newDist;
+                    owner[neighbor] = owner[currentCity];
+                    customPriorityQueue.add(neighbor, newDist);
+                }
+            }
+        }
+
+        // Discard tentative distances of cities that were never settled.
+        for (int i = 0; i < n; i++) {
+            if (!visited[i]) {
+                dist[i] = Integer.MAX_VALUE;
+                owner[i] = -1;
+            }
+        }
+        return found;
+    }
+
     /**
      * Prints the shortest paths from the start city to all other cities.
      *
@@ -234,5 +408,21 @@ public class Dijkstra {
 
         int startCity = 0; // Starting city.
         int[] shortestDistances = dijkstra(distanceMatrix, startCity);
+
+        // Nearest depot for every city, with depots at cities B and E.
+        NearestFacilityResult nearest = nearestFacility(distanceMatrix, new int[]{1, 4});
+        System.out.println("Nearest depot for each city:");
+        for (int i = 0; i < distanceMatrix.length; i++) {
+            System.out.println("City " + (char) ('A' + i) + ": depot " + (char) ('A' + nearest.owners[i])
+                    + " (Distance: " + nearest.distances[i] + ")");
+        }
+
+        // All cities within distance 20 of city A.
+        int[] withinRadius = dijkstraWithinRadius(distanceMatrix, startCity, 20);
+        System.out.println("Cities within distance 20 of city A: " + Arrays.toString(withinRadius));
+
+        // The two nearest of cities C, D and E to city A.
+        int[] closest = kNearestTargets(distanceMatrix, startCity, new int[]{2, 3, 4}, 2);
+        System.out.println("Two nearest of C, D, E to city A: " + Arrays.toString(closest));
     }
 }